@@ -0,0 +1,57 @@
+package com.example.coursesearch.config;
+
+import com.example.coursesearch.document.CourseDocument;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the routing value of a course from its category, so that a search
+ * filtered on a single category only has to hit that category's shards.
+ * Routing stays off until startup confirms the index requires it.
+ */
+@Component
+public class CategoryRoutingResolver implements RoutingResolver {
+
+    // Routing must be non-empty once required by the mapping
+    static final String UNCATEGORIZED = "uncategorized";
+
+    private volatile boolean indexRouted = false;
+
+    public boolean isIndexRouted() {
+        return indexRouted;
+    }
+
+    /**
+     * Records whether the courses index requires routing, i.e. whether its
+     * documents are placed by category rather than by id.
+     */
+    public void setIndexRouted(boolean indexRouted) {
+        this.indexRouted = indexRouted;
+    }
+
+    @Override
+    public String getRouting() {
+        return null;
+    }
+
+    @Override
+    public <T> String getRouting(T bean) {
+        if (!indexRouted || !(bean instanceof CourseDocument course)) {
+            return null;
+        }
+        String category = course.getCategory();
+        return category == null || category.trim().isEmpty() ? UNCATEGORIZED : category;
+    }
+
+    /**
+     * Returns the routing value for a search filtered on the given category,
+     * or null (fan out to all shards) when the index is not routed or there
+     * is no category filter.
+     */
+    public String routingForSearch(String category) {
+        if (!indexRouted || category == null || category.trim().isEmpty()) {
+            return null;
+        }
+        return category;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.coursesearch.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for routing course documents to shards by category.
+ * Shard and partition counts only take effect when the index is created.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.elasticsearch.routing")
+public class CourseRoutingProperties {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int numberOfShards = 6;
+
+    // Shards each category is spread over; must be lower than numberOfShards
+    @Min(1)
+    private int partitionSize = 2;
+
+    @AssertTrue(message = "partitionSize must be 1 or lower than numberOfShards")
+    public boolean isPartitionSizeValid() {
+        return partitionSize == 1 || partitionSize < numberOfShards;
+    }
+}
\ No newline at end of file
@@ -18,7 +18,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "courses")
+@Document(indexName = "courses", createIndex = false) // created by DataIngestionService
 public class CourseDocument {
     
     @Id
@@ -1,5 +1,6 @@
 package com.example.coursesearch.service;
 
+import com.example.coursesearch.config.CategoryRoutingResolver;
 import com.example.coursesearch.document.CourseDocument;
 import com.example.coursesearch.dto.CourseSearchRequest;
 import com.example.coursesearch.dto.CourseSearchResponse;
@@ -32,6 +33,7 @@ import java.util.stream.Collectors;
 public class CourseSearchService {
 
     private final ElasticsearchOperations elasticsearchOperations;
+    private final CategoryRoutingResolver categoryRoutingResolver;
 
     public CourseSearchResponse searchCourses(CourseSearchRequest request) {
         log.debug("Searching courses with request: {}", request);
@@ -178,9 +180,16 @@ public class CourseSearchService {
 
         co.elastic.clients.elasticsearch._types.query_dsl.Query elasticQuery = boolQueryBuilder.build()._toQuery();
 
+        // Routing - a category filter only needs that category's shards, otherwise fan out
+        String routing = categoryRoutingResolver.routingForSearch(request.getCategory());
+        if (routing != null) {
+            log.debug("Routing search to category: {}", routing);
+        }
+
         return NativeQuery.builder()
                 .withQuery(elasticQuery)
                 .withPageable(pageable)
+                .withRoute(routing)
                 .build();
     }
 
@@ -1,5 +1,7 @@
 package com.example.coursesearch.service;
 
+import com.example.coursesearch.config.CategoryRoutingResolver;
+import com.example.coursesearch.config.CourseRoutingProperties;
 import com.example.coursesearch.document.CourseDocument;
 import com.example.coursesearch.repository.CourseRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -9,11 +11,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,12 +30,18 @@ public class DataIngestionService implements CommandLineRunner {
     
     private final CourseRepository courseRepository;
     private final ObjectMapper objectMapper;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CategoryRoutingResolver categoryRoutingResolver;
+    private final CourseRoutingProperties routingProperties;
     
     @Override
     public void run(String... args) throws Exception {
         log.info("Starting data ingestion...");
         
         try {
+            IndexOperations indexOperations = elasticsearchOperations.indexOps(CourseDocument.class);
+            createIndexIfNeeded(indexOperations);
+            
             // Check if data already exists
             long count = courseRepository.count();
             if (count > 0) {
@@ -44,8 +57,9 @@ public class DataIngestionService implements CommandLineRunner {
                     .map(this::enhanceCourseWithCompletion)
                     .collect(Collectors.toList());
             
-            // Bulk index the data
-            courseRepository.saveAll(courses);
+            // Bulk index the data, routed by category when the index requires it
+            elasticsearchOperations.withRouting(categoryRoutingResolver).save(courses);
+            indexOperations.refresh();
             
             log.info("Successfully indexed {} courses with autocomplete capabilities", courses.size());
             
@@ -55,6 +69,69 @@ public class DataIngestionService implements CommandLineRunner {
         }
     }
     
+    /**
+     * Creates the courses index. With routing enabled, the index requires a
+     * routing value and spreads each category over a partition of shards.
+     * Routing is only used once the index is known to require it.
+     */
+    private void createIndexIfNeeded(IndexOperations indexOperations) {
+        if (indexOperations.exists()) {
+            boolean routed = isRoutingRequired(indexOperations.getMapping());
+            if (routingProperties.isEnabled() && !routed) {
+                log.warn("Routing is enabled but the existing index was created without it. "
+                        + "Category searches fan out to all shards until the index is deleted and reindexed.");
+            } else if (!routingProperties.isEnabled() && routed) {
+                log.warn("Routing is disabled but the existing index requires it. "
+                        + "Keeping category routing on until the index is deleted and reindexed.");
+            }
+            categoryRoutingResolver.setIndexRouted(routed);
+            return;
+        }
+        
+        if (!routingProperties.isEnabled()) {
+            indexOperations.createWithMapping();
+            return;
+        }
+        
+        // Nested under "index" like the settings Elasticsearch returns
+        Map<String, Object> indexSettings = new HashMap<>();
+        indexSettings.put("number_of_shards", routingProperties.getNumberOfShards());
+        if (routingProperties.getPartitionSize() > 1) {
+            indexSettings.put("routing_partition_size", routingProperties.getPartitionSize());
+        }
+        
+        Document mapping = indexOperations.createMapping();
+        mapping.put("_routing", Map.of("required", true));
+        
+        Map<String, Object> settings = Map.of("index", indexSettings);
+        indexOperations.create(settings, mapping);
+        categoryRoutingResolver.setIndexRouted(isRoutingRequired(indexOperations.getMapping()));
+        
+        Map<String, Object> applied = indexOperations.getSettings();
+        log.info("Created index with category routing: {} shards, partition size {} (requested {} and {})",
+                indexSetting(applied, "number_of_shards"), indexSetting(applied, "routing_partition_size"),
+                routingProperties.getNumberOfShards(), routingProperties.getPartitionSize());
+        if (!String.valueOf(routingProperties.getNumberOfShards()).equals(indexSetting(applied, "number_of_shards"))) {
+            log.warn("Index was not created with the requested number of shards. Applied settings: {}", applied);
+        }
+    }
+    
+    private boolean isRoutingRequired(Map<String, Object> mapping) {
+        return mapping.get("_routing") instanceof Map<?, ?> routing
+                && Boolean.parseBoolean(String.valueOf(routing.get("required")));
+    }
+    
+    /**
+     * Reads an index setting, whether returned in dotted or nested form
+     */
+    private String indexSetting(Map<String, Object> settings, String name) {
+        Object value = settings.get("index." + name);
+        if (value == null && settings.get("index") instanceof Map<?, ?> index) {
+            value = index.get(name);
+        }
+        return value == null ? null : String.valueOf(value);
+    }
+    
     private List<CourseDocument> loadSampleData() throws IOException {
         log.info("Loading sample data from sample-courses.json");
         
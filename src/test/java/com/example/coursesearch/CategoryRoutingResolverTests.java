@@ -0,0 +1,63 @@
+package com.example.coursesearch;
+
+import com.example.coursesearch.config.CategoryRoutingResolver;
+import com.example.coursesearch.document.CourseDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRoutingResolverTests {
+
+    private CategoryRoutingResolver routedResolver() {
+        CategoryRoutingResolver resolver = new CategoryRoutingResolver();
+        resolver.setIndexRouted(true);
+        return resolver;
+    }
+
+    private CourseDocument course(String category) {
+        CourseDocument course = new CourseDocument();
+        course.setCategory(category);
+        return course;
+    }
+
+    @Test
+    void routesCourseByCategory() {
+        assertThat(routedResolver().getRouting(course("Science"))).isEqualTo("Science");
+    }
+
+    @Test
+    void routesCourseWithoutCategoryToUncategorized() {
+        CategoryRoutingResolver resolver = routedResolver();
+
+        assertThat(resolver.getRouting(course(null))).isEqualTo("uncategorized");
+        assertThat(resolver.getRouting(course("  "))).isEqualTo("uncategorized");
+    }
+
+    @Test
+    void doesNotRouteOtherBeans() {
+        assertThat(routedResolver().getRouting("Science")).isNull();
+        assertThat(routedResolver().getRouting()).isNull();
+    }
+
+    @Test
+    void doesNotRouteUntilIndexIsRouted() {
+        CategoryRoutingResolver resolver = new CategoryRoutingResolver();
+
+        assertThat(resolver.getRouting(course("Science"))).isNull();
+        assertThat(resolver.routingForSearch("Science")).isNull();
+    }
+
+    @Test
+    void routesSearchWithCategoryFilter() {
+        assertThat(routedResolver().routingForSearch("Science")).isEqualTo("Science");
+    }
+
+    @Test
+    void fansOutSearchWithoutCategoryFilter() {
+        CategoryRoutingResolver resolver = routedResolver();
+
+        assertThat(resolver.routingForSearch(null)).isNull();
+        assertThat(resolver.routingForSearch("")).isNull();
+        assertThat(resolver.routingForSearch("   ")).isNull();
+    }
+}